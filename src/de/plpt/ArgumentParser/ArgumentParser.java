@@ -10,7 +10,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 //endregion
 
 /**
@@ -24,6 +23,7 @@ public class ArgumentParser {
 	private Class<?> executableType;
 	private Object executableObject;
 	private boolean showHelp = false;
+	private List<CommandDefinition> commandTable;
 	//endregion
 
 	//region constructor
@@ -64,8 +64,9 @@ public class ArgumentParser {
 	 *
 	 * @param command InputCommand from Terminal
 	 * @param <T>     Return type of matching Method defined in executable Object.
-	 * @param args    optional object argument which can be passed to the destination method. if input is string and
-	 *                destination is typed, then the params are converted into destination type
+	 * @param args    optional object argument which can be passed to the destination method. if the argument is an
+	 *                instance of the destination type it is passed through directly, otherwise its string
+	 *                representation is converted into destination type
 	 * @return Result value (return type) of matching Method in executableObject. In worst case use as Object an call
 	 * Object#toString() on it.
 	 * @throws ArgumentParserException    Parser exception raised when there are problems
@@ -75,14 +76,14 @@ public class ArgumentParser {
 	@SuppressWarnings("unchecked")
 	public <T> T parse(String command, Object... args) throws ArgumentParserException, IntervalViolationException {
 
-		Method meth = getMatchingMethod(command);
+		CommandDefinition definition = getMatchingCommand(command);
 
-		if (meth == null) {
+		if (definition == null) {
 
-			Method mm = getStartsWithMethod(command);
+			CommandDefinition mm = getStartsWithCommand(command);
 
 			if (mm != null) {
-				String regex = mm.getAnnotation(CommandInfo.class).command();
+				String regex = mm.getCommandInfo().command();
 				throw new IllegalArgumentException(
 						String.format("Command '%s' does not match regex '%s'", command, regex));
 			}
@@ -93,13 +94,11 @@ public class ArgumentParser {
 			throw new ArgumentParserException(uncd);
 		}
 
-		CommandInfo anno = meth.getAnnotation(CommandInfo.class);
-		String annoCommand = anno.command();
-		Pattern pattern = Pattern.compile(annoCommand);
-		Matcher matcher = pattern.matcher(command);
+		Method meth = definition.getMethod();
+		Matcher matcher = definition.getPattern().matcher(command);
 		if (!matcher.matches())
 			throw new ArgumentParserException(
-					String.format("Command '%s' does not match pattern '%s'", command, annoCommand));
+					String.format("Command '%s' does not match pattern '%s'", command, definition.getCommandInfo().command()));
 
 		Object[] values = new Object[meth.getParameterCount()];
 		int indexOffset = 0;
@@ -119,7 +118,7 @@ public class ArgumentParser {
 					throw new ArgumentParserException("Given type is an array but no array lenght is defined!");
 				}
 			} else if (args.length > currentOffset - matcher.groupCount()) {
-				values[i] = parseValue(args[currentOffset - matcher.groupCount()].toString(), type);
+				values[i] = processPassedArgument(definition, i, args[currentOffset - matcher.groupCount()]);
 			}
 		}
 
@@ -141,6 +140,31 @@ public class ArgumentParser {
 
 	//endregion
 
+	//region processPassedArgument
+
+	/**
+	 * Process an optional argument passed to {@link #parse(String, Object...)} which has no matching regex group.
+	 * If the argument already is an instance of the parameter type it is bound directly, otherwise its string
+	 * representation is parsed into the parameter type
+	 *
+	 * @param definition Command definition whose Method will be invoked
+	 * @param index      Index of Method parameter
+	 * @param arg        passed argument value
+	 * @return argument bound or parsed to parameter type
+	 * @throws ArgumentParserException is thrown when the argument cannot be converted into parameter type
+	 */
+	private Object processPassedArgument(CommandDefinition definition, int index, Object arg)
+			throws ArgumentParserException {
+		if (arg == null) {
+			return null;
+		}
+		if (definition.getBindingTypes()[index].isInstance(arg)) {
+			return arg;
+		}
+		return parseValue(arg.toString(), definition.getMethod().getParameterTypes()[index]);
+	}
+	//endregion
+
 	//region  processArrayParameter
 
 	/**
@@ -304,75 +328,77 @@ public class ArgumentParser {
 	}
 	//endregion
 
-	//region getCommandMethods
+	//region getCommandTable
 
 	/**
-	 * Looks for Methods which are annotated with {@link CommandInfo}
+	 * Looks for Methods which are annotated with {@link CommandInfo}.
+	 * The command table is built and sorted once and reused for following commands.
 	 *
-	 * @return List of Methods defined as Command
+	 * @return List of command definitions sorted by command regex
 	 */
-	private List<Method> getCommandMethods() {
-		List<Method> commandMethods = new ArrayList<Method>();
+	private List<CommandDefinition> getCommandTable() {
+		if (commandTable != null) {
+			return commandTable;
+		}
+		List<CommandDefinition> commandDefinitions = new ArrayList<CommandDefinition>();
 		for (java.lang.reflect.Method m : executableType.getDeclaredMethods()) {
 
 			if (m.isAnnotationPresent(CommandInfo.class)) {
-				commandMethods.add(m);
+				commandDefinitions.add(new CommandDefinition(m));
 			}
 		}
 
-		commandMethods.sort(new Comparator<Method>() {
+		commandDefinitions.sort(new Comparator<CommandDefinition>() {
 			@Override
-			public int compare(Method o1, Method o2) {
-				return o1.getAnnotation(CommandInfo.class).command().compareTo(o2.getAnnotation(CommandInfo.class).command());
+			public int compare(CommandDefinition o1, CommandDefinition o2) {
+				return o1.getCommandInfo().command().compareTo(o2.getCommandInfo().command());
 			}
 		});
 
-		return commandMethods;
+		commandTable = commandDefinitions;
+		return commandTable;
 	}
 	//endregion
 
-	//region getMatchingMethod
+	//region getMatchingCommand
 
 	/**
-	 * Looks for a Method Definition where it's Regex pattern matches to the inputCommand
+	 * Looks for a command definition where it's Regex pattern matches to the inputCommand.
+	 * Patterns are only compiled for definitions whose literal prefix fits the inputCommand.
 	 *
 	 * @param inputCommand Command from Terminal
-	 * @return decaring Method of executableObject which is matching with current command
+	 * @return command definition of executableObject which is matching with current command
 	 */
-	private Method getMatchingMethod(String inputCommand) {
-		List<Method> commandMethods = getCommandMethods();
-		for (Method m : commandMethods) {
+	private CommandDefinition getMatchingCommand(String inputCommand) {
+		for (CommandDefinition definition : getCommandTable()) {
 
-			CommandInfo anno = m.getAnnotation(CommandInfo.class);
-			String annoCommand = anno.command();
-			Pattern pattern = Pattern.compile(annoCommand);
-			Matcher matcher = pattern.matcher(inputCommand);
+			if (!definition.canMatch(inputCommand)) continue;
 
-			if (matcher.matches()) return m;
+			Matcher matcher = definition.getPattern().matcher(inputCommand);
+
+			if (matcher.matches()) return definition;
 
 		}
 		return null;
 	}
 	//endregion
 
-	//region getStartsWithMethod
+	//region getStartsWithCommand
 
 	/**
-	 * Looks for a Method definition which starts with the inputCommand
+	 * Looks for a command definition which starts with the inputCommand
 	 * Don't use for matching purposes, it's only for a error message, when no matching Method is found.
 	 *
 	 * @param inputCommand Command from CommandLine
-	 * @return Method whose regex definition starts with Command
+	 * @return command definition whose regex definition starts with Command
 	 */
-	private Method getStartsWithMethod(String inputCommand) {
-		List<Method> commandMethods = getCommandMethods();
-		for (Method m : commandMethods) {
+	private CommandDefinition getStartsWithCommand(String inputCommand) {
+		for (CommandDefinition definition : getCommandTable()) {
 
-			CommandInfo anno = m.getAnnotation(CommandInfo.class);
-			String annoCommand = anno.command();
+			String annoCommand = definition.getCommandInfo().command();
 			if ((inputCommand.contains(" ") && annoCommand.contains(inputCommand.split(" ")[0]))
 					|| annoCommand.contains(inputCommand))
-				return m;
+				return definition;
 
 		}
 		return null;
@@ -390,14 +416,12 @@ public class ArgumentParser {
 
 		StringBuilder builder = new StringBuilder();
 		builder.append("This program contains the following commands: \n");
-		List<Method> commandMethods = getCommandMethods();
-
 
-		for (Method m : commandMethods) {
-			CommandInfo anno = m.getAnnotation(CommandInfo.class);
+		for (CommandDefinition definition : getCommandTable()) {
+			CommandInfo anno = definition.getCommandInfo();
 			String annoCommand = anno.command();
 			String description = anno.description();
-			builder.append(String.format("%s -- %s (%s)", annoCommand, description, m.getName()));
+			builder.append(String.format("%s -- %s (%s)", annoCommand, description, definition.getMethod().getName()));
 			builder.append("\n");
 		}
 		return builder.toString().trim();
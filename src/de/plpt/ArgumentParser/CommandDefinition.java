@@ -0,0 +1,143 @@
+package de.plpt.ArgumentParser;
+
+import java.lang.reflect.Method;
+import java.util.regex.Pattern;
+
+/**
+ * Represents an analysed command Method of the executable Object.
+ * Holds the {@link CommandInfo} annotation, the literal prefix of its regex and the lazily compiled Pattern
+ */
+class CommandDefinition {
+
+    //region varDef
+    private static final String REGEX_META_CHARS = "\\[](){}.*+?^$|";
+
+    private final Method method;
+    private final CommandInfo commandInfo;
+    private final String literalPrefix;
+    private Pattern pattern;
+    private Class<?>[] bindingTypes;
+    //endregion
+
+    //region constructor
+
+    /**
+     * Initializes a new CommandDefinition
+     *
+     * @param method Method annotated with {@link CommandInfo}
+     */
+    CommandDefinition(Method method) {
+        this.method = method;
+        this.commandInfo = method.getAnnotation(CommandInfo.class);
+        this.literalPrefix = getLiteralPrefix(commandInfo.command());
+    }
+    //endregion
+
+    //region Methods
+
+    /**
+     * @return annotated command Method
+     */
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return CommandInfo annotation of Method
+     */
+    CommandInfo getCommandInfo() {
+        return commandInfo;
+    }
+
+    /**
+     * Returns the Pattern of the command regex. The Pattern is compiled on first use.
+     *
+     * @return compiled command Pattern
+     */
+    Pattern getPattern() {
+        if (pattern == null) {
+            pattern = Pattern.compile(commandInfo.command());
+        }
+        return pattern;
+    }
+
+    /**
+     * Checks whether an input command can match this definition without compiling its Pattern,
+     * by comparing it with the literal prefix of the regex
+     *
+     * @param inputCommand Command from Terminal
+     * @return false if the command can't match, true if the Pattern has to be checked
+     */
+    boolean canMatch(String inputCommand) {
+        return inputCommand.startsWith(literalPrefix);
+    }
+
+    /**
+     * Returns the parameter types of the Method with primitive types replaced by their object wrapper class,
+     * so passed arguments can be checked for direct binding
+     *
+     * @return wrapped parameter types of Method
+     */
+    Class<?>[] getBindingTypes() {
+        if (bindingTypes == null) {
+            Class<?>[] types = method.getParameterTypes();
+            for (int i = 0; i < types.length; i++) {
+                types[i] = wrapPrimitiveType(types[i]);
+            }
+            bindingTypes = types;
+        }
+        return bindingTypes;
+    }
+
+    /**
+     * Returns the leading part of a regex which has to match literally.
+     * Regex containing alternations have no literal prefix.
+     *
+     * @param regex regex definition of command
+     * @return literal prefix of regex, maybe empty
+     */
+    private static String getLiteralPrefix(String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        int end = 0;
+        while (end < regex.length() && REGEX_META_CHARS.indexOf(regex.charAt(end)) < 0) {
+            end++;
+        }
+        if (end < regex.length() && end > 0 && "*?{".indexOf(regex.charAt(end)) >= 0) {
+            //last literal char is optional
+            end--;
+        }
+        return regex.substring(0, end);
+    }
+
+    /**
+     * Returns the object wrapper class of a primitive type
+     *
+     * @param type Type to wrap
+     * @return wrapper class if type is primitive, otherwise the given type
+     */
+    private static Class<?> wrapPrimitiveType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+    //endregion
+}